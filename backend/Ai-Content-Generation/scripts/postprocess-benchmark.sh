@@ -0,0 +1,14 @@
+#!/usr/bin/env bash
+# Runs the JMH micro-benchmarks for the output post-processing stages
+# (src/test/.../postprocess/OutputStageBenchmark.java).
+#
+# Usage: scripts/postprocess-benchmark.sh [JMH args...]
+#   scripts/postprocess-benchmark.sh                 # all stages, default iterations
+#   scripts/postprocess-benchmark.sh -f 1 -wi 2 -i 3 faqStage
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+mvn -B -q test-compile
+mvn -B -q dependency:build-classpath -Dmdep.includeScope=test -Dmdep.outputFile=target/benchmark.classpath
+java -cp "target/test-classes:target/classes:$(cat target/benchmark.classpath)" \
+  org.openjdk.jmh.Main "${@:-OutputStageBenchmark}"
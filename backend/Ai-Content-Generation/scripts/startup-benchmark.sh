@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Measures time-to-ready (first UP from /actuator/health) and resident memory of the backend.
+#
+# Usage: scripts/startup-benchmark.sh <jar> [runs] [extra JVM args...]
+#   scripts/startup-benchmark.sh target/app.jar 5
+#   scripts/startup-benchmark.sh extracted/app.jar 5 -XX:SharedArchiveFile=extracted/app.jsa -Dspring.aot.enabled=true
+#
+# The usual environment (DB_URL, JWT_SECRET, GEMINI_API_KEY, ...) must be set so the app can come up.
+set -euo pipefail
+
+JAR=${1:?usage: $0 <jar> [runs] [jvm args...]}
+RUNS=${2:-5}
+shift $(( $# >= 2 ? 2 : 1 ))
+PORT=${BENCH_PORT:-18080}
+TIMEOUT_S=${BENCH_TIMEOUT:-120}
+
+times=()
+rss=()
+for i in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  java "$@" -jar "$JAR" --server.port="$PORT" > /dev/null 2>&1 &
+  pid=$!
+
+  ready=""
+  deadline=$(( $(date +%s) + TIMEOUT_S ))
+  while [ "$(date +%s)" -lt "$deadline" ] && kill -0 "$pid" 2>/dev/null; do
+    if curl -fs "http://localhost:$PORT/actuator/health" 2>/dev/null | grep -q '"UP"'; then
+      ready=$(( ($(date +%s%N) - start) / 1000000 ))
+      break
+    fi
+    sleep 0.05
+  done
+
+  if [ -z "$ready" ]; then
+    kill "$pid" 2>/dev/null || true
+    echo "run $i: application did not become ready within ${TIMEOUT_S}s" >&2
+    exit 1
+  fi
+
+  mem=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  times+=("$ready")
+  rss+=("$mem")
+  echo "run $i: ready in ${ready} ms, RSS $(( mem / 1024 )) MB"
+done
+
+median() { printf '%s\n' "$@" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}'; }
+echo "median: ready in $(median "${times[@]}") ms, RSS $(( $(median "${rss[@]}") / 1024 )) MB"
@@ -2,9 +2,11 @@ package com.project.Ai_Content_Generation;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import io.github.cdimascio.dotenv.Dotenv; // Import Dotenv
 
 @SpringBootApplication
+@EnableScheduling
 public class AiContentGenerationApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,43 @@
+package com.project.Ai_Content_Generation.cache;
+
+import com.project.Ai_Content_Generation.postprocess.ProcessedOutput;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Caches post-processed generations by content type and a hash of the input.
+ * Off by default: with it on, resubmitting the same prompt returns the same
+ * output until the entry expires, unless the request bypasses the cache.
+ */
+@Component
+public class GenerationCache {
+
+    private final SharedCacheTier store;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    public GenerationCache(SharedCacheTier store,
+                           @Value("${app.cache.enabled:false}") boolean enabled,
+                           @Value("${app.cache.ttl:3600000}") long ttlMillis) {
+        this.store = store;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public ProcessedOutput get(String type, String content) {
+        return enabled ? (ProcessedOutput) store.get(key(type, content)) : null;
+    }
+
+    public void put(String type, String content, ProcessedOutput output) {
+        if (enabled) {
+            store.put(key(type, content), output, ttlMillis);
+        }
+    }
+
+    static String key(String type, String content) {
+        return "gen:" + type.toLowerCase(Locale.ROOT) + ":" + DigestUtils.sha256Hex(content);
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.Ai_Content_Generation.cache;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-JVM {@link SharedCacheTier}. Bounded LRU; expired entries are also swept
+ * on a schedule so unread keys do not linger.
+ */
+public class InMemorySharedCacheTier implements SharedCacheTier {
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private final Map<String, Entry> entries;
+
+    public InMemorySharedCacheTier(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Object get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public synchronized void put(String key, Object value, long ttlMillis) {
+        entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Override
+    public synchronized void evict(String key) {
+        entries.remove(key);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.purge-interval:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
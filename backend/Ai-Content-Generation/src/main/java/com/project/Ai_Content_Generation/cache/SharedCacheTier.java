@@ -0,0 +1,16 @@
+package com.project.Ai_Content_Generation.cache;
+
+/**
+ * Store behind {@link GenerationCache}. The bundled {@link InMemorySharedCacheTier}
+ * is per-JVM, so each instance keeps its own hits; a multi-instance deployment
+ * shares them by providing a networked implementation (e.g. Redis) as the
+ * {@code sharedCacheTier} bean in CacheConfig.
+ */
+public interface SharedCacheTier {
+
+    Object get(String key);
+
+    void put(String key, Object value, long ttlMillis);
+
+    void evict(String key);
+}
@@ -0,0 +1,21 @@
+package com.project.Ai_Content_Generation.config;
+
+import com.project.Ai_Content_Generation.cache.InMemorySharedCacheTier;
+import com.project.Ai_Content_Generation.cache.SharedCacheTier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the store behind the generation cache. Only the per-JVM implementation
+ * ships; replace this bean with a networked SharedCacheTier to share cached
+ * generations across instances.
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public SharedCacheTier sharedCacheTier(@Value("${app.cache.max-entries:10000}") int maxEntries) {
+        return new InMemorySharedCacheTier(maxEntries);
+    }
+}
@@ -3,47 +3,62 @@ package com.project.Ai_Content_Generation.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import org.springframework.web.filter.CorsFilter;
 import java.util.Arrays;
 
+/**
+ * The single CORS configuration for the app. It is applied once, by the
+ * security filter chain, which also answers preflight requests without
+ * running the rest of the chain.
+ */
 @Configuration
 public class CorsConfig {
 
+    // How long browsers may cache a preflight response, in seconds
+    private static final long PREFLIGHT_MAX_AGE = 3600L;
+
     @Bean
-    public CorsFilter corsFilter() {
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+    public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
-        
+
         // Allow specific origins for development and production
         config.setAllowedOrigins(Arrays.asList(
             "http://localhost:5173", // Vite default port
-            "http://localhost:3000",  // Common React port
-            "https://ai-content-generation-app.vercel.app", // Vercel production domain
-            "https://ai-content-generation-app-*.vercel.app" // Vercel preview domains
+            "http://localhost:3000"  // Common React port
         ));
-        
+        // Allow all Vercel preview/prod URLs and the Railway frontend URL
+        config.setAllowedOriginPatterns(Arrays.asList(
+            "https://*.vercel.app",
+            "https://*.railway.app"
+        ));
+
         // Allow all common HTTP methods
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        
+
         // Allow specific headers including Authorization for JWT
         config.setAllowedHeaders(Arrays.asList(
-            "Origin", 
-            "Content-Type", 
-            "Accept", 
-            "Authorization", 
-            "X-Requested-With", 
-            "Access-Control-Request-Method", 
+            "Origin",
+            "Content-Type",
+            "Accept",
+            "Authorization",
+            "Cache-Control",
+            "X-Request-Timeout",
+            "X-Requested-With",
+            "Access-Control-Request-Method",
             "Access-Control-Request-Headers"
         ));
-        
+
         // Allow credentials (cookies, authorization headers)
         config.setAllowCredentials(true);
-        
+
         // Expose the Authorization header
         config.setExposedHeaders(Arrays.asList("Authorization"));
-        
+
+        config.setMaxAge(PREFLIGHT_MAX_AGE);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
-        return new CorsFilter(source);
+        return source;
     }
 }
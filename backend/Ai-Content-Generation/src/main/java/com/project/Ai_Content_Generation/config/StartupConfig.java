@@ -0,0 +1,22 @@
+package com.project.Ai_Content_Generation.config;
+
+import com.project.Ai_Content_Generation.jwt.JwtUtil;
+import com.project.Ai_Content_Generation.jwt.TokenDenylist;
+import com.project.Ai_Content_Generation.service.GeminiService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * When spring.main.lazy-initialization is on (as in the Docker image), these
+ * beans are still created at startup: they sit on the hot request path, and
+ * the denylist has to be created for its purge schedule to be registered.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(GeminiService.class, JwtUtil.class, TokenDenylist.class);
+    }
+}
@@ -2,13 +2,14 @@ package com.project.Ai_Content_Generation.controller;
 
 import com.project.Ai_Content_Generation.dto.LoginRequest;
 import com.project.Ai_Content_Generation.dto.LoginResponse;
+import com.project.Ai_Content_Generation.dto.RefreshRequest;
 import com.project.Ai_Content_Generation.dto.RegisterRequest;
 import com.project.Ai_Content_Generation.dto.RegisterResponse;
 import com.project.Ai_Content_Generation.service.AuthService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-@CrossOrigin(origins = "http://localhost:5173")
 @RestController
 @RequestMapping("api/auth")
 public class AuthController {
@@ -25,4 +26,17 @@ public class AuthController {
     public LoginResponse login(@RequestBody LoginRequest request) {
         return authService.login(request);
     }
+
+    @PostMapping("/refresh")
+    public LoginResponse refresh(@RequestBody RefreshRequest request) {
+        return authService.refresh(request);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authHeader,
+                                       @RequestBody(required = false) RefreshRequest request) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        authService.logout(accessToken, request);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -2,34 +2,63 @@ package com.project.Ai_Content_Generation.controller;
 
 import com.project.Ai_Content_Generation.dto.GenerateRequest;
 import com.project.Ai_Content_Generation.dto.GenerateResponse;
+import com.project.Ai_Content_Generation.postprocess.ProcessedOutput;
+import com.project.Ai_Content_Generation.scheduler.Deadline;
 import com.project.Ai_Content_Generation.service.GeminiService;
+import com.project.Ai_Content_Generation.service.InputBudget;
+import com.project.Ai_Content_Generation.util.TokenEstimator;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api") // This maps to /api
 public class GenerateController {
 
     private final GeminiService geminiService;
+    private final InputBudget inputBudget;
     private static final Logger logger = LoggerFactory.getLogger(GenerateController.class);
 
     @Autowired
-    public GenerateController(GeminiService geminiService) {
+    public GenerateController(GeminiService geminiService, InputBudget inputBudget) {
         this.geminiService = geminiService;
+        this.inputBudget = inputBudget;
     }
 
     @PostMapping("/generate") // This maps to /api/generate
-    public GenerateResponse generate(@RequestBody @Valid GenerateRequest request) {
+    public GenerateResponse generate(@RequestBody @Valid GenerateRequest request,
+                                     @RequestHeader(value = "X-Request-Timeout", required = false) Long timeoutMillis,
+                                     @RequestHeader(value = HttpHeaders.CACHE_CONTROL, required = false) String cacheControl) {
         logger.info("Endpoint /api/generate called");
         logger.info("Received generate request with type: {}", request.getType());
         logger.info("Content: {}", request.getContent());
         
-        String output = geminiService.generateContent(request.getContent(), request.getType());
-        logger.info("Generated response with length: {}", output.length());
+        // How long the client will wait, so queued work is dropped once nobody is waiting for it
+        Deadline deadline = timeoutMillis != null && timeoutMillis > 0 ? Deadline.afterMillis(timeoutMillis) : null;
+        // "Cache-Control: no-cache" asks for a fresh generation even if an identical one is cached
+        boolean bypassCache = cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-cache");
+        int estimatedTokens = TokenEstimator.estimate(request.getContent());
+        int budget = inputBudget.budgetFor(request.getType());
+        ProcessedOutput output;
+        if (estimatedTokens <= budget) {
+            output = geminiService.generateProcessedContent(request.getContent(), request.getType(), deadline, bypassCache);
+        } else if (inputBudget.canChunk(request.getType(), estimatedTokens)) {
+            logger.info("Input of ~{} tokens exceeds budget of {}, summarizing in chunks", estimatedTokens, budget);
+            output = geminiService.generateChunkedContent(request.getContent(), request.getType(), budget, deadline, bypassCache);
+        } else {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Content is too long for type '" + request.getType() + "' (~" + estimatedTokens
+                            + " tokens, limit " + budget + ")");
+        }
+        logger.info("Generated response with length: {}", output.getText().length());
         
-        return new GenerateResponse(output);
+        return new GenerateResponse(output.getText(), output.getData());
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.project.Ai_Content_Generation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FaqEntry {
+    private String question;
+    private String answer;
+}
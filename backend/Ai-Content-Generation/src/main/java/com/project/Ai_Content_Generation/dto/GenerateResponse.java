@@ -1,10 +1,18 @@
 package com.project.Ai_Content_Generation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 @Data
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GenerateResponse {
     private String generatedText;
-}
\ No newline at end of file
+    // Structured variant for types that have one (headline list, FAQ pairs, meta descriptions)
+    private Object data;
+
+    public GenerateResponse(String generatedText) {
+        this(generatedText, null);
+    }
+}
@@ -10,4 +10,5 @@ import lombok.NoArgsConstructor;
 public class LoginResponse {
     private String message;
     private String token;
+    private String refreshToken;
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.project.Ai_Content_Generation.dto;
+
+import lombok.Data;
+@Data
+public class RefreshRequest {
+    private String refreshToken;
+}
@@ -2,12 +2,16 @@ package com.project.Ai_Content_Generation.jwt;
 
 //import com.project.springSecurity.security.MyUserDetailsService;
 import com.project.Ai_Content_Generation.security.MyUserDetailsService;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -16,48 +20,71 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Arrays;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
 
+    // Routes that never need an authenticated user; the filter is skipped for them
+    public static final String[] PUBLIC_PATHS = {"/api/auth/**", "/actuator/**"};
+
+    private static final RequestMatcher PUBLIC_ROUTES = new OrRequestMatcher(
+            Arrays.stream(PUBLIC_PATHS).map(AntPathRequestMatcher::new).toArray(RequestMatcher[]::new));
+
     @Autowired
     private MyUserDetailsService userDetailsService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenDenylist tokenDenylist;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PUBLIC_ROUTES.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
         final String authHeader = request.getHeader("Authorization");
         String username = null;
-        String jwt = null;
 
-        logger.info("Processing request to URL: {}", request.getRequestURI());
+        logger.debug("Processing request to URL: {}", request.getRequestURI());
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            logger.info("JWT token found in request");
+            String jwt = authHeader.substring(7);
+            logger.debug("JWT token found in request");
             try {
-                username = jwtUtil.extractUsername(jwt);
-                logger.info("Username extracted from JWT: {}", username);
+                Claims claims = jwtUtil.extractAllClaims(jwt);
+                if (jwtUtil.isRefreshToken(claims)) {
+                    logger.warn("Refresh token presented as access token");
+                } else if (tokenDenylist.isRevoked(claims.getId())) {
+                    logger.warn("JWT token has been revoked");
+                } else {
+                    username = claims.getSubject();
+                    logger.debug("Username extracted from JWT: {}", username);
+                }
             } catch (Exception e) {
-                logger.error("Error extracting username from JWT: {}", e.getMessage(), e);
+                // Expired and malformed tokens are routine client behaviour, not server errors
+                logger.debug("Rejected JWT: {}", e.getMessage());
             }
         } else {
-            logger.warn("No JWT token found in request or doesn't start with Bearer");
+            logger.debug("No JWT token found in request or doesn't start with Bearer");
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-                logger.info("Loaded user details for: {}", username);
+                logger.debug("Loaded user details for: {}", username);
 
-                if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-                    logger.info("JWT token validated successfully");
+                // The claims were verified and checked for expiry when parsed above; no need to parse again
+                if (username.equals(userDetails.getUsername())) {
+                    logger.debug("JWT token validated successfully");
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(
                                     userDetails,
@@ -66,7 +93,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                             );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
-                    logger.info("Set authentication in SecurityContext with authorities: {}",
+                    logger.debug("Set authentication in SecurityContext with authorities: {}",
                             userDetails.getAuthorities());
                 } else {
                     logger.warn("JWT token validation failed");
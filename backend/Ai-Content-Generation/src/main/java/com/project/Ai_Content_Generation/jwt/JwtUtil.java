@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
@@ -20,6 +21,13 @@ public class JwtUtil {
     @Value("${app.jwt.expiration}")
     private long expirationTime;
 
+    @Value("${app.jwt.refresh-expiration:604800000}")
+    private long refreshExpirationTime;
+
+    public static final String TOKEN_TYPE_CLAIM = "type";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
     private SecretKey getSigningKey() {
         // Convert hex string to byte array manually
         byte[] keyBytes = hexStringToByteArray(secretKeyString);
@@ -37,7 +45,7 @@ public class JwtUtil {
         return data;
     }
 
-    private Claims extractAllClaims(String token) {
+    public Claims extractAllClaims(String token) {
         return Jwts.parser()
                 .verifyWith(getSigningKey())
                 .build()
@@ -58,21 +66,36 @@ public class JwtUtil {
         return extractClaim(token, Claims::getExpiration);
     }
 
+    public String extractId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
     public boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
 
+    // Tokens issued before refresh support carry no type claim and are treated as access tokens
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
     public String generateToken(String username) {
+        return buildToken(username, ACCESS_TOKEN, expirationTime);
+    }
+
+    public String generateRefreshToken(String username) {
+        return buildToken(username, REFRESH_TOKEN, refreshExpirationTime);
+    }
+
+    private String buildToken(String username, String type, long validity) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expirationTime))
+                .claim(TOKEN_TYPE_CLAIM, type)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + validity))
                 .signWith(getSigningKey())
                 .compact();
     }
-
-    public boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
-    }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.project.Ai_Content_Generation.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Revoked token ids (jti) kept until the token would have expired anyway.
+ * A Bloom filter sits in front of the expiring set so the common case, a token
+ * that was never revoked, is answered without touching the map.
+ */
+@Component
+public class TokenDenylist {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenylist.class);
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final int expectedEntries;
+    private volatile BloomFilter filter;
+
+    public TokenDenylist(@Value("${app.jwt.denylist.expected-entries:10000}") int expectedEntries) {
+        this.expectedEntries = expectedEntries;
+        this.filter = new BloomFilter(expectedEntries);
+    }
+
+    /**
+     * Returns true only for the caller that actually revoked the jti, so a
+     * check-and-revoke (e.g. refresh token rotation) is single-use under concurrency.
+     */
+    public synchronized boolean revoke(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return false;
+        }
+        if (revoked.putIfAbsent(jti, expiresAtMillis) != null) {
+            return false;
+        }
+        filter.add(jti);
+        return true;
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // Bloom filters cannot delete, so the filter is rebuilt from whatever survives the purge
+    @Scheduled(fixedDelayString = "${app.jwt.denylist.purge-interval:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size()));
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+
+        if (before != revoked.size()) {
+            logger.info("Purged {} expired entries from token denylist", before - revoked.size());
+        }
+    }
+
+    /**
+     * Fixed-size Bloom filter sized for a ~1% false positive rate. Bits live in an
+     * AtomicLongArray so a revocation is visible to lock-free readers as soon as
+     * {@link #revoke} returns.
+     */
+    static final class BloomFilter {
+
+        private static final int HASHES = 7;
+
+        private final AtomicLongArray bits;
+        private final int size;
+
+        BloomFilter(int expectedEntries) {
+            // m = -n ln(p) / (ln 2)^2 with p = 0.01, roughly 9.6 bits per entry
+            long m = (long) Math.ceil(expectedEntries * 9.6);
+            this.size = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+            this.bits = new AtomicLongArray((size + 63) >>> 6);
+        }
+
+        void add(String key) {
+            int h1 = mix(key.hashCode());
+            int h2 = mix(h1 ^ 0x5bd1e995);
+            for (int i = 0; i < HASHES; i++) {
+                int idx = Math.floorMod(h1 + i * h2, size);
+                long mask = 1L << idx;
+                bits.getAndAccumulate(idx >>> 6, mask, (word, bit) -> word | bit);
+            }
+        }
+
+        boolean mightContain(String key) {
+            int h1 = mix(key.hashCode());
+            int h2 = mix(h1 ^ 0x5bd1e995);
+            for (int i = 0; i < HASHES; i++) {
+                int idx = Math.floorMod(h1 + i * h2, size);
+                if ((bits.get(idx >>> 6) & (1L << idx)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // murmur3 fmix32 finalizer
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import com.project.Ai_Content_Generation.dto.FaqEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/** Parses FAQ output into question/answer pairs. */
+public class FaqStage implements OutputStage {
+
+    private static final Pattern QUESTION_PREFIX = Pattern.compile("^(?i)(q\\d*|question\\s*\\d*)\\s*[:.)-]\\s*");
+    private static final Pattern ANSWER_PREFIX = Pattern.compile("^(?i)(a\\d*|answer\\s*\\d*)\\s*[:.)-]\\s*");
+
+    @Override
+    public ProcessedOutput apply(ProcessedOutput output) {
+        List<FaqEntry> entries = new ArrayList<>();
+        String question = null;
+        StringBuilder answer = new StringBuilder();
+
+        for (String line : output.getText().split("\n")) {
+            String item = ListItems.clean(line);
+            if (item.isEmpty()) {
+                continue;
+            }
+            boolean prefixed = QUESTION_PREFIX.matcher(item).find();
+            if (prefixed || (item.endsWith("?") && !ANSWER_PREFIX.matcher(item).find())) {
+                addEntry(entries, question, answer);
+                question = QUESTION_PREFIX.matcher(item).replaceFirst("");
+                answer.setLength(0);
+            } else if (question != null) {
+                if (answer.length() > 0) {
+                    answer.append(' ');
+                }
+                answer.append(ANSWER_PREFIX.matcher(item).replaceFirst(""));
+            }
+        }
+        addEntry(entries, question, answer);
+
+        if (entries.isEmpty()) {
+            return output;
+        }
+        StringBuilder text = new StringBuilder();
+        for (FaqEntry entry : entries) {
+            if (text.length() > 0) {
+                text.append("\n\n");
+            }
+            text.append("Q: ").append(entry.getQuestion()).append("\nA: ").append(entry.getAnswer());
+        }
+        return new ProcessedOutput(text.toString(), entries);
+    }
+
+    private static void addEntry(List<FaqEntry> entries, String question, StringBuilder answer) {
+        if (question != null && answer.length() > 0) {
+            entries.add(new FaqEntry(question, answer.toString()));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/** Reduces headline output to a numbered list of unique headlines. */
+public class HeadlineStage implements OutputStage {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadlineStage.class);
+
+    private final int count;
+
+    public HeadlineStage(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public ProcessedOutput apply(ProcessedOutput output) {
+        List<String> headlines = ListItems.uniqueItems(output.getText(), count);
+        if (headlines.isEmpty()) {
+            logger.warn("No headlines found in generated output");
+            return output;
+        }
+        if (headlines.size() < count) {
+            logger.warn("Generated output contained {} unique headlines, expected {}", headlines.size(), count);
+        }
+        return new ProcessedOutput(ListItems.numbered(headlines), headlines);
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import java.util.List;
+
+/** Splits output into unique items and truncates each at a word boundary. */
+public class LengthLimitStage implements OutputStage {
+
+    private final int maxLength;
+    private final int maxItems;
+
+    public LengthLimitStage(int maxLength, int maxItems) {
+        this.maxLength = maxLength;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public ProcessedOutput apply(ProcessedOutput output) {
+        List<String> items = ListItems.uniqueItems(output.getText(), maxItems);
+        if (items.isEmpty()) {
+            return output;
+        }
+        items.replaceAll(this::truncate);
+        return new ProcessedOutput(ListItems.numbered(items), items);
+    }
+
+    String truncate(String item) {
+        if (item.length() <= maxLength) {
+            return item;
+        }
+        int cut = item.lastIndexOf(' ', maxLength - 1);
+        if (cut <= 0) {
+            cut = maxLength - 1;
+        }
+        return item.substring(0, cut).stripTrailing() + "…";
+    }
+}
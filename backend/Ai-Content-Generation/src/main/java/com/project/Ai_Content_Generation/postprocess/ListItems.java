@@ -0,0 +1,116 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/** Helpers for pulling list items out of model output. */
+final class ListItems {
+
+    private static final Pattern LEAD_IN = Pattern.compile(
+            "^(?i)(here('s| is| are)|sure\\b|certainly|of course|okay|ok\\b|i hope|let me know|feel free)");
+
+    private ListItems() {
+    }
+
+    /** Strips numbering, bullets, headings, bold markers and surrounding quotes. */
+    static String clean(String line) {
+        int start = 0;
+        int end = line.length();
+        while (start < end && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+
+        int digits = start;
+        while (digits < end && Character.isDigit(line.charAt(digits))) {
+            digits++;
+        }
+        if (digits > start && digits < end && (line.charAt(digits) == '.' || line.charAt(digits) == ')')) {
+            start = digits + 1;
+        }
+        while (start < end && "-*•#> \t".indexOf(line.charAt(start)) >= 0) {
+            start++;
+        }
+
+        String item = line.substring(start, end).replace("**", "").replace("__", "").trim();
+        if (item.length() >= 2 && isQuote(item.charAt(0)) && isQuote(item.charAt(item.length() - 1))) {
+            item = item.substring(1, item.length() - 1).trim();
+        }
+        return item;
+    }
+
+    /**
+     * Cleaned, non-empty items deduplicated case-insensitively. When the text has any
+     * numbered or bulleted lines only those are taken, so prose around the list
+     * ("Here are five headlines for your post.", closing remarks) is never counted.
+     * Otherwise every line is an item except obvious lead-ins.
+     */
+    static List<String> uniqueItems(String text, int limit) {
+        String[] lines = text.split("\n");
+        boolean hasMarkedLines = false;
+        for (String line : lines) {
+            if (isMarked(line)) {
+                hasMarkedLines = true;
+                break;
+            }
+        }
+
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String line : lines) {
+            if (hasMarkedLines && !isMarked(line)) {
+                continue;
+            }
+            String item = clean(line);
+            if (item.isEmpty() || item.endsWith(":") || (!hasMarkedLines && LEAD_IN.matcher(item).find())) {
+                continue;
+            }
+            unique.putIfAbsent(item.toLowerCase(Locale.ROOT), item);
+            if (unique.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    /** Whether the line starts with a list marker: "1.", "2)", "-", "*" or "•" (optionally inside bold). */
+    static boolean isMarked(String line) {
+        String trimmed = line.strip();
+        if (trimmed.startsWith("**")) {
+            trimmed = trimmed.substring(2).stripLeading();
+        }
+        if (trimmed.isEmpty()) {
+            return false;
+        }
+        char first = trimmed.charAt(0);
+        if (first == '-' || first == '*' || first == '•') {
+            return trimmed.length() > 1 && Character.isWhitespace(trimmed.charAt(1));
+        }
+        int digits = 0;
+        while (digits < trimmed.length() && Character.isDigit(trimmed.charAt(digits))) {
+            digits++;
+        }
+        return digits > 0 && digits < trimmed.length()
+                && (trimmed.charAt(digits) == '.' || trimmed.charAt(digits) == ')');
+    }
+
+    static String numbered(List<String> items) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                sb.append('\n');
+            }
+            sb.append(i + 1).append(". ").append(items.get(i));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '"' || c == '“' || c == '”';
+    }
+}
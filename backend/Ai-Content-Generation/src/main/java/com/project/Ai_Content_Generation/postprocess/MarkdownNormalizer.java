@@ -0,0 +1,52 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+/**
+ * Normalizes line endings, strips trailing whitespace and collapses runs of
+ * blank lines into one. A trailing double space is a Markdown hard line break,
+ * so it is kept (as exactly two spaces) when another line follows directly.
+ * Runs for every content type.
+ */
+public class MarkdownNormalizer implements OutputStage {
+
+    @Override
+    public ProcessedOutput apply(ProcessedOutput output) {
+        output.setText(normalize(output.getText()));
+        return output;
+    }
+
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        int lineStart = 0;
+        int blankRun = 0;
+        boolean hardBreak = false;
+        int len = text.length();
+        while (lineStart <= len) {
+            int lineEnd = lineStart;
+            while (lineEnd < len && text.charAt(lineEnd) != '\n' && text.charAt(lineEnd) != '\r') {
+                lineEnd++;
+            }
+            int trimmedEnd = lineEnd;
+            while (trimmedEnd > lineStart && Character.isWhitespace(text.charAt(trimmedEnd - 1))) {
+                trimmedEnd--;
+            }
+
+            if (trimmedEnd == lineStart) {
+                blankRun++;
+            } else {
+                if (sb.length() > 0) {
+                    sb.append(blankRun > 0 ? "\n\n" : hardBreak ? "  \n" : "\n");
+                }
+                sb.append(text, lineStart, trimmedEnd);
+                blankRun = 0;
+                hardBreak = lineEnd - trimmedEnd >= 2
+                        && text.charAt(lineEnd - 1) == ' ' && text.charAt(lineEnd - 2) == ' ';
+            }
+
+            if (lineEnd < len && text.charAt(lineEnd) == '\r' && lineEnd + 1 < len && text.charAt(lineEnd + 1) == '\n') {
+                lineEnd++;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import java.util.List;
+
+public class OutputPipeline {
+
+    private final OutputStage composed;
+
+    public OutputPipeline(List<OutputStage> stages) {
+        this.composed = stages.stream().reduce(output -> output, OutputStage::then);
+    }
+
+    public ProcessedOutput process(String rawText) {
+        return composed.apply(ProcessedOutput.of(rawText));
+    }
+}
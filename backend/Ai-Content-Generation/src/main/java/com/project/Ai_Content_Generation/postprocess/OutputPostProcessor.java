@@ -0,0 +1,32 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-type post-processing of generated text. Types without a dedicated
+ * pipeline only get markdown normalization.
+ */
+@Component
+public class OutputPostProcessor {
+
+    static final int HEADLINE_COUNT = 5;
+    static final int META_MAX_LENGTH = 160;
+    static final int META_MAX_ITEMS = 5;
+
+    private static final OutputStage NORMALIZE = new MarkdownNormalizer();
+
+    private final OutputPipeline defaultPipeline = new OutputPipeline(List.of(NORMALIZE));
+    private final Map<String, OutputPipeline> pipelines = Map.of(
+            "headline", new OutputPipeline(List.of(NORMALIZE, new HeadlineStage(HEADLINE_COUNT))),
+            "faq", new OutputPipeline(List.of(NORMALIZE, new FaqStage())),
+            "meta", new OutputPipeline(List.of(NORMALIZE, new LengthLimitStage(META_MAX_LENGTH, META_MAX_ITEMS)))
+    );
+
+    public ProcessedOutput process(String type, String rawText) {
+        return pipelines.getOrDefault(type.toLowerCase(Locale.ROOT), defaultPipeline).process(rawText);
+    }
+}
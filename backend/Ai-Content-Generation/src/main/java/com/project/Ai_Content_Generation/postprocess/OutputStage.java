@@ -0,0 +1,15 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+/**
+ * A single post-processing step. Stages are stateless and may be shared
+ * between pipelines and threads.
+ */
+@FunctionalInterface
+public interface OutputStage {
+
+    ProcessedOutput apply(ProcessedOutput output);
+
+    default OutputStage then(OutputStage next) {
+        return output -> next.apply(apply(output));
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Text flowing through an {@link OutputPipeline}. {@code data} is filled in by
+ * stages that can extract a structured form (headline list, FAQ pairs, ...).
+ */
+@Data
+@AllArgsConstructor
+public class ProcessedOutput {
+    private String text;
+    private Object data;
+
+    public static ProcessedOutput of(String text) {
+        return new ProcessedOutput(text, null);
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.Ai_Content_Generation.scheduler;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * AIMD concurrency limit driven by smoothed upstream latency. Each tier keeps a
+ * short EWMA (roughly the last 10 calls) and a long-run EWMA baseline (roughly
+ * the last 500), since tiers have very different natural latencies; the upstream
+ * counts as congested when the short average exceeds {@code tolerance} times the
+ * baseline. Individual slow generations move the short average only a little, so
+ * ordinary LLM latency variance does not read as congestion. Uncongested samples
+ * grow the limit by about one per limit's worth of completions; congestion and
+ * failed calls shrink it multiplicatively, at most once per limit's worth of
+ * completions. Not thread-safe; callers hold a lock.
+ */
+class AdaptiveConcurrencyLimit {
+
+    private static final double DECREASE_FACTOR = 0.9;
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);
+    // Slow enough to ride out a congestion episode, fast enough to follow a permanently slower upstream
+    private static final double LONG_ALPHA = 2.0 / (500 + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final Map<GenerationTier, LatencyBaseline> baselines = new EnumMap<>(GenerationTier.class);
+    private double limit;
+    private int samplesUntilNextDecrease;
+
+    AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        for (GenerationTier tier : GenerationTier.values()) {
+            baselines.put(tier, new LatencyBaseline());
+        }
+    }
+
+    int getLimit() {
+        return (int) limit;
+    }
+
+    /** Latency of a call that completed successfully. */
+    void onSample(GenerationTier tier, long latencyNanos) {
+        LatencyBaseline baseline = baselines.get(tier);
+        baseline.record(latencyNanos);
+        if (samplesUntilNextDecrease > 0) {
+            samplesUntilNextDecrease--;
+            return;
+        }
+        if (baseline.shortAverage > baseline.longAverage * tolerance) {
+            decrease();
+        } else {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * A call that failed upstream (error, rate limit, timeout); treated like a packet
+     * drop. It counts as a completion too, so a run of failures keeps shrinking the limit.
+     */
+    void onDrop() {
+        if (samplesUntilNextDecrease > 0) {
+            samplesUntilNextDecrease--;
+            return;
+        }
+        decrease();
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * DECREASE_FACTOR);
+        // Calls already in flight were admitted under the old limit; let them drain before judging again
+        samplesUntilNextDecrease = (int) limit;
+    }
+
+    private static class LatencyBaseline {
+        private double shortAverage;
+        private double longAverage;
+        private boolean seeded;
+
+        void record(long sample) {
+            if (!seeded) {
+                shortAverage = sample;
+                longAverage = sample;
+                seeded = true;
+                return;
+            }
+            shortAverage += SHORT_ALPHA * (sample - shortAverage);
+            longAverage += LONG_ALPHA * (sample - longAverage);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.Ai_Content_Generation.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time, on the {@link System#nanoTime()} clock, after which the client
+ * no longer wants a response. Fixed once when the request arrives, so every
+ * upstream call made for that request shares it.
+ */
+public record Deadline(long nanoTime) {
+
+    public static Deadline afterMillis(long millis) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /** The earlier of this deadline and {@code otherNanoTime}, compared overflow-safely. */
+    long earliest(long otherNanoTime) {
+        return nanoTime - otherNanoTime < 0 ? nanoTime : otherNanoTime;
+    }
+}
@@ -0,0 +1,196 @@
+package com.project.Ai_Content_Generation.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Admission control and priority scheduling for upstream generation calls.
+ * Callers wait in a bounded queue per {@link GenerationTier}; free slots are
+ * handed out by smooth weighted round-robin across non-empty queues, so short
+ * requests keep moving while long ones pile up. A waiter's deadline is the
+ * client's {@link Deadline} when it sent one, capped by the server-side queue
+ * timeout; waiters past it are dropped instead of being granted a slot. The
+ * number of slots follows upstream latency and failures via
+ * {@link AdaptiveConcurrencyLimit}.
+ */
+@Component
+public class GenerationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationScheduler.class);
+
+    private static final class Ticket {
+        final GenerationTier tier;
+        final long deadlineNanos;
+        final CompletableFuture<Void> permit = new CompletableFuture<>();
+
+        Ticket(GenerationTier tier, long deadlineNanos) {
+            this.tier = tier;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    private final Map<GenerationTier, ArrayDeque<Ticket>> queues = new EnumMap<>(GenerationTier.class);
+    private final Map<GenerationTier, Integer> currentWeights = new EnumMap<>(GenerationTier.class);
+    private final AdaptiveConcurrencyLimit limit;
+    private final int queueCapacity;
+    private final long queueTimeoutNanos;
+    private int inFlight;
+
+    public GenerationScheduler(@Value("${app.scheduler.queue-capacity:100}") int queueCapacity,
+                               @Value("${app.scheduler.queue-timeout:30000}") long queueTimeoutMillis,
+                               @Value("${app.scheduler.initial-limit:8}") int initialLimit,
+                               @Value("${app.scheduler.min-limit:2}") int minLimit,
+                               @Value("${app.scheduler.max-limit:64}") int maxLimit,
+                               @Value("${app.scheduler.latency-tolerance:2.0}") double latencyTolerance) {
+        this.queueCapacity = queueCapacity;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, latencyTolerance);
+        for (GenerationTier tier : GenerationTier.values()) {
+            queues.put(tier, new ArrayDeque<>());
+            currentWeights.put(tier, 0);
+        }
+    }
+
+    public <T> T run(String type, Deadline deadline, Supplier<T> work) {
+        return run(GenerationTier.forType(type), deadline, work);
+    }
+
+    /**
+     * Runs {@code work} once a slot is free. {@code deadline} may be null when the
+     * client did not send one; the queue timeout still applies.
+     */
+    public <T> T run(GenerationTier tier, Deadline deadline, Supplier<T> work) {
+        Ticket ticket = admit(tier, deadline);
+        awaitPermit(ticket);
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = work.get();
+        } catch (RuntimeException | Error e) {
+            // A failed call's latency says nothing about queueing upstream; count it as a drop
+            releaseAfterFailure();
+            throw e;
+        }
+        release(tier, System.nanoTime() - start);
+        return result;
+    }
+
+    public synchronized int getLimit() {
+        return limit.getLimit();
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued(GenerationTier tier) {
+        return queues.get(tier).size();
+    }
+
+    private synchronized Ticket admit(GenerationTier tier, Deadline deadline) {
+        ArrayDeque<Ticket> queue = queues.get(tier);
+        if (queue.size() >= queueCapacity) {
+            logger.warn("Rejecting {} generation request: queue full ({} waiting)", tier, queue.size());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, please retry shortly");
+        }
+        long queueDeadline = System.nanoTime() + queueTimeoutNanos;
+        Ticket ticket = new Ticket(tier, deadline != null ? deadline.earliest(queueDeadline) : queueDeadline);
+        queue.addLast(ticket);
+        dispatch();
+        return ticket;
+    }
+
+    private void awaitPermit(Ticket ticket) {
+        try {
+            ticket.permit.get(Math.max(0, ticket.deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException | ExecutionException e) {
+            // fall through to abandon the ticket
+        }
+        if (!abandon(ticket)) {
+            // Granted between the timeout and the abandon; the slot is ours, so use it
+            return;
+        }
+        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Timed out waiting for a generation slot");
+    }
+
+    private synchronized boolean abandon(Ticket ticket) {
+        if (ticket.permit.isDone() && !ticket.permit.isCompletedExceptionally()) {
+            return false;
+        }
+        queues.get(ticket.tier).remove(ticket);
+        return true;
+    }
+
+    private synchronized void release(GenerationTier tier, long latencyNanos) {
+        inFlight--;
+        limit.onSample(tier, latencyNanos);
+        dispatch();
+    }
+
+    private synchronized void releaseAfterFailure() {
+        inFlight--;
+        limit.onDrop();
+        dispatch();
+    }
+
+    private void dispatch() {
+        long now = System.nanoTime();
+        while (inFlight < limit.getLimit()) {
+            Ticket next = pollNext(now);
+            if (next == null) {
+                return;
+            }
+            inFlight++;
+            next.permit.complete(null);
+        }
+    }
+
+    // Smooth weighted round-robin over tiers that still have live waiters
+    private Ticket pollNext(long now) {
+        GenerationTier chosen = null;
+        int totalWeight = 0;
+        for (GenerationTier tier : GenerationTier.values()) {
+            if (!dropExpired(queues.get(tier), now)) {
+                continue;
+            }
+            int current = currentWeights.get(tier) + tier.getWeight();
+            currentWeights.put(tier, current);
+            totalWeight += tier.getWeight();
+            if (chosen == null || current > currentWeights.get(chosen)) {
+                chosen = tier;
+            }
+        }
+        if (chosen == null) {
+            return null;
+        }
+        currentWeights.put(chosen, currentWeights.get(chosen) - totalWeight);
+        return queues.get(chosen).pollFirst();
+    }
+
+    /** Drops waiters past their deadline; returns whether any remain. */
+    private boolean dropExpired(ArrayDeque<Ticket> queue, long now) {
+        Ticket head;
+        while ((head = queue.peekFirst()) != null && head.deadlineNanos - now <= 0) {
+            queue.pollFirst();
+            head.permit.completeExceptionally(new TimeoutException());
+        }
+        return head != null;
+    }
+}
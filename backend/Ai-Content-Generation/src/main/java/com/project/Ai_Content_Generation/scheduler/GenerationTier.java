@@ -0,0 +1,38 @@
+package com.project.Ai_Content_Generation.scheduler;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Scheduling class of a generation request. Weights set each tier's share of
+ * upstream slots when all queues are backed up.
+ */
+public enum GenerationTier {
+    FAST(6),
+    STANDARD(3),
+    SLOW(1);
+
+    private static final Set<String> FAST_TYPES = Set.of("caption", "headline", "meta", "ad", "social");
+    private static final Set<String> SLOW_TYPES = Set.of("article", "blog", "technical", "tutorial", "newsletter", "press", "script");
+
+    private final int weight;
+
+    GenerationTier(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public static GenerationTier forType(String type) {
+        String normalized = type.toLowerCase(Locale.ROOT);
+        if (FAST_TYPES.contains(normalized)) {
+            return FAST;
+        }
+        if (SLOW_TYPES.contains(normalized)) {
+            return SLOW;
+        }
+        return STANDARD;
+    }
+}
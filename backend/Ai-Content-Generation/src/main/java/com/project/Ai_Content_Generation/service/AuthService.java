@@ -2,11 +2,15 @@ package com.project.Ai_Content_Generation.service;
 
 import com.project.Ai_Content_Generation.dto.LoginRequest;
 import com.project.Ai_Content_Generation.dto.LoginResponse;
+import com.project.Ai_Content_Generation.dto.RefreshRequest;
 import com.project.Ai_Content_Generation.dto.RegisterRequest;
 import com.project.Ai_Content_Generation.dto.RegisterResponse;
 import com.project.Ai_Content_Generation.jwt.JwtUtil;
+import com.project.Ai_Content_Generation.jwt.TokenDenylist;
 import com.project.Ai_Content_Generation.entity.User;
 import com.project.Ai_Content_Generation.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -30,6 +34,8 @@ public class AuthService {
     private JwtUtil jwtUtil;
     @Autowired
     private AuthenticationManager authenticationManager;
+    @Autowired
+    private TokenDenylist tokenDenylist;
 
     public RegisterResponse register(RegisterRequest request) {
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
@@ -67,7 +73,58 @@ public class AuthService {
 
         // Pass email as username to JWT util for token generation (your JwtUtil uses token subject as username)
         String token = jwtUtil.generateToken(user.getUsername());  // user.getUsername() is email here
+        String refreshToken = jwtUtil.generateRefreshToken(user.getUsername());
         String msg = "Login successful! Use this token for Authorization header: Bearer <token>";
-        return new LoginResponse(msg, token);
+        return new LoginResponse(msg, token, refreshToken);
+    }
+
+    public LoginResponse refresh(RefreshRequest request) {
+        Claims claims = parseRefreshToken(request.getRefreshToken());
+        if (userRepository.findByEmail(claims.getSubject()).isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+
+        // Rotate: the presented refresh token cannot be used again. Only the request that
+        // wins the revoke gets new tokens, so concurrent refreshes with one token fail
+        if (!tokenDenylist.revoke(claims.getId(), claims.getExpiration().getTime())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        String token = jwtUtil.generateToken(claims.getSubject());
+        String refreshToken = jwtUtil.generateRefreshToken(claims.getSubject());
+        return new LoginResponse("Token refreshed successfully", token, refreshToken);
+    }
+
+    public void logout(String accessToken, RefreshRequest request) {
+        if (accessToken != null) {
+            revokeQuietly(accessToken);
+        }
+        if (request != null && request.getRefreshToken() != null) {
+            revokeQuietly(request.getRefreshToken());
+        }
+    }
+
+    private Claims parseRefreshToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        Claims claims;
+        try {
+            claims = jwtUtil.extractAllClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        if (!jwtUtil.isRefreshToken(claims) || tokenDenylist.isRevoked(claims.getId())) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid refresh token");
+        }
+        return claims;
+    }
+
+    // Expired or malformed tokens are already unusable, so there is nothing to revoke
+    private void revokeQuietly(String token) {
+        try {
+            Claims claims = jwtUtil.extractAllClaims(token);
+            tokenDenylist.revoke(claims.getId(), claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException ignored) {
+        }
     }
 }
\ No newline at end of file
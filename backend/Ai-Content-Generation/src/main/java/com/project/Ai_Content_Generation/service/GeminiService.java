@@ -1,54 +1,177 @@
 package com.project.Ai_Content_Generation.service;
 
+import com.project.Ai_Content_Generation.cache.GenerationCache;
 import com.project.Ai_Content_Generation.dto.GeminiRequest;
 import com.project.Ai_Content_Generation.dto.GeminiResponse;
+import com.project.Ai_Content_Generation.postprocess.OutputPostProcessor;
+import com.project.Ai_Content_Generation.postprocess.ProcessedOutput;
+import com.project.Ai_Content_Generation.scheduler.Deadline;
+import com.project.Ai_Content_Generation.scheduler.GenerationScheduler;
+import com.project.Ai_Content_Generation.scheduler.GenerationTier;
+import com.project.Ai_Content_Generation.util.TextChunker;
+import com.project.Ai_Content_Generation.util.TokenEstimator;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 @Service
 public class GeminiService {
 
-    private final WebClient webClient;
+    private static final String NO_CONTENT = "No content generated.";
+    private static final String API_ERROR = "Could not generate content (API error).";
+    private static final int MAX_REDUCE_ROUNDS = 3;
+
+    private final RestClient restClient;
     private final String geminiApiKey;
+    private final OutputPostProcessor postProcessor;
+    private final GenerationCache generationCache;
+    private final GenerationScheduler scheduler;
+    private final int chunkParallelism;
+    private final ExecutorService chunkExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    public GeminiService(@Value("${gemini.api.key}") String geminiApiKey) {
+    public GeminiService(@Value("${gemini.api.key}") String geminiApiKey,
+                         @Value("${app.generate.chunking.parallelism:4}") int chunkParallelism,
+                         OutputPostProcessor postProcessor,
+                         GenerationCache generationCache,
+                         GenerationScheduler scheduler) {
         this.geminiApiKey = geminiApiKey;
-        this.webClient = WebClient.builder()
+        this.chunkParallelism = chunkParallelism;
+        this.postProcessor = postProcessor;
+        this.generationCache = generationCache;
+        this.scheduler = scheduler;
+        this.restClient = RestClient.builder()
                 .baseUrl("https://generativelanguage.googleapis.com/v1beta/models/gemini-1.5-flash:generateContent")
                 .build();
     }
 
-    public String generateContent(String content, String type) {
-        String prompt = buildPrompt(type, content);
+    /**
+     * {@code bypassCache} skips the cache lookup (the client asked for a fresh
+     * generation); the new result still replaces any cached one.
+     */
+    public ProcessedOutput generateProcessedContent(String content, String type, Deadline deadline, boolean bypassCache) {
+        ProcessedOutput cached = bypassCache ? null : generationCache.get(type, content);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            String generated = scheduler.run(type, deadline, () -> requestContent(buildPrompt(type, content)));
+            return postProcess(generated, type, content);
+        } catch (RestClientException e) {
+            return ProcessedOutput.of(API_ERROR);
+        }
+    }
 
+    /**
+     * Map-reduce for input over the per-request budget: each chunk is summarized
+     * by a parallel upstream call, then the requested type is generated from the
+     * joined partial summaries. If the joined summaries are still over budget they
+     * are summarized again, for a bounded number of rounds.
+     */
+    public ProcessedOutput generateChunkedContent(String content, String type, int chunkTokens, Deadline deadline,
+                                                  boolean bypassCache) {
+        ProcessedOutput cached = bypassCache ? null : generationCache.get(type, content);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            String reduced = summarizeChunks(content, chunkTokens, deadline);
+            for (int round = 1; reduced != null && TokenEstimator.estimate(reduced) > chunkTokens; round++) {
+                if (round == MAX_REDUCE_ROUNDS) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                            "Content is too long to summarize within the input budget");
+                }
+                reduced = summarizeChunks(reduced, chunkTokens, deadline);
+            }
+            if (reduced == null) {
+                return ProcessedOutput.of(NO_CONTENT);
+            }
+            String reduceInput = reduced;
+            return postProcess(scheduler.run(type, deadline, () -> requestContent(buildPrompt(type, reduceInput))), type, content);
+        } catch (RestClientException e) {
+            return ProcessedOutput.of(API_ERROR);
+        }
+    }
+
+    // Summarizes each chunk in parallel and joins the partial summaries; null if none came back
+    private String summarizeChunks(String text, int chunkTokens, Deadline deadline) {
+        List<String> chunks = TextChunker.split(text, chunkTokens);
+        Semaphore permits = new Semaphore(chunkParallelism);
+        List<CompletableFuture<String>> partials = new ArrayList<>(chunks.size());
+        for (String chunk : chunks) {
+            partials.add(CompletableFuture.supplyAsync(() -> {
+                permits.acquireUninterruptibly();
+                try {
+                    // Chunk fan-out is bulk work, so it queues behind interactive requests
+                    return scheduler.run(GenerationTier.SLOW, deadline, () -> requestContent(buildPrompt("summary", chunk)));
+                } finally {
+                    permits.release();
+                }
+            }, chunkExecutor));
+        }
+
+        try {
+            List<String> summaries = new ArrayList<>(partials.size());
+            for (CompletableFuture<String> partial : partials) {
+                String summary = partial.join();
+                if (summary != null) {
+                    summaries.add(summary);
+                }
+            }
+            return summaries.isEmpty() ? null : String.join("\n\n", summaries);
+        } catch (CompletionException e) {
+            partials.forEach(partial -> partial.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // Only real generations are cached; fallback messages are returned but not stored
+    private ProcessedOutput postProcess(String generated, String type, String content) {
+        if (generated == null) {
+            return ProcessedOutput.of(NO_CONTENT);
+        }
+        ProcessedOutput output = postProcessor.process(type, generated);
+        generationCache.put(type, content, output);
+        return output;
+    }
+
+    private String requestContent(String prompt) {
         GeminiRequest.Content.Part part = new GeminiRequest.Content.Part(prompt);
         GeminiRequest.Content contentObj = new GeminiRequest.Content(Collections.singletonList(part));
         GeminiRequest requestBody = new GeminiRequest(Collections.singletonList(contentObj));
 
-        Mono<String> responseMono = webClient.post()
+        GeminiResponse response = restClient.post()
                 .uri(uriBuilder -> uriBuilder.queryParam("key", geminiApiKey).build())
-                .bodyValue(requestBody)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(requestBody)
                 .retrieve()
-                .bodyToMono(GeminiResponse.class)
-                .map(response -> {
-                    if (response.getCandidates() != null && !response.getCandidates().isEmpty()) {
-                        GeminiResponse.Candidate candidate = response.getCandidates().get(0);
-                        GeminiResponse.Content candidateContent = candidate.getContent();
-                        if (candidateContent != null
-                                && candidateContent.getParts() != null
-                                && !candidateContent.getParts().isEmpty()) {
-                            return candidateContent.getParts().get(0).getText();
-                        }
-                    }
-                    return "No content generated.";
-                })
-                .onErrorReturn("Could not generate content (API error).");
+                .body(GeminiResponse.class);
 
-        return responseMono.block();
+        if (response != null && response.getCandidates() != null && !response.getCandidates().isEmpty()) {
+            GeminiResponse.Candidate candidate = response.getCandidates().get(0);
+            GeminiResponse.Content candidateContent = candidate.getContent();
+            if (candidateContent != null
+                    && candidateContent.getParts() != null
+                    && !candidateContent.getParts().isEmpty()) {
+                return candidateContent.getParts().get(0).getText();
+            }
+        }
+        return null;
     }
 
     private String buildPrompt(String type, String content) {
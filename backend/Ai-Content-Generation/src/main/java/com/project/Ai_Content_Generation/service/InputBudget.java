@@ -0,0 +1,47 @@
+package com.project.Ai_Content_Generation.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-type limits on the estimated input tokens sent to Gemini. Short-form types
+ * get a tight budget; summary and notes may exceed theirs by being chunked.
+ */
+@Component
+public class InputBudget {
+
+    private static final Map<String, Integer> TYPE_BUDGETS = Map.of(
+            "caption", 1000,
+            "headline", 1000,
+            "meta", 1000,
+            "ad", 1500,
+            "social", 1500
+    );
+    private static final Set<String> CHUNKABLE_TYPES = Set.of("summary", "notes");
+
+    private final int defaultBudget;
+    private final boolean chunkingEnabled;
+    private final int maxChunkedTokens;
+
+    public InputBudget(@Value("${app.generate.max-input-tokens:8000}") int defaultBudget,
+                       @Value("${app.generate.chunking.enabled:true}") boolean chunkingEnabled,
+                       @Value("${app.generate.chunking.max-input-tokens:60000}") int maxChunkedTokens) {
+        this.defaultBudget = defaultBudget;
+        this.chunkingEnabled = chunkingEnabled;
+        this.maxChunkedTokens = maxChunkedTokens;
+    }
+
+    public int budgetFor(String type) {
+        return Math.min(TYPE_BUDGETS.getOrDefault(type.toLowerCase(Locale.ROOT), defaultBudget), defaultBudget);
+    }
+
+    public boolean canChunk(String type, int estimatedTokens) {
+        return chunkingEnabled
+                && CHUNKABLE_TYPES.contains(type.toLowerCase(Locale.ROOT))
+                && estimatedTokens <= maxChunkedTokens;
+    }
+}
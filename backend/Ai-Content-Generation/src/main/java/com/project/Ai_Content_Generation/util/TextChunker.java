@@ -0,0 +1,61 @@
+package com.project.Ai_Content_Generation.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits long text into pieces that {@link TokenEstimator} puts at or under a
+ * token budget, preferring paragraph and sentence breaks.
+ */
+public final class TextChunker {
+
+    // The estimator never reports fewer than one token per 4 chars, so this bounds any window
+    private static final int MAX_CHARS_PER_TOKEN = 4;
+
+    private TextChunker() {
+    }
+
+    public static List<String> split(String text, int maxTokens) {
+        int maxChars = Math.max(1, maxTokens * MAX_CHARS_PER_TOKEN);
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        int len = text.length();
+        while (start < len) {
+            int window = Math.min(len - start, maxChars);
+            int end = start + window;
+            int estimate = TokenEstimator.estimate(text, start, end);
+            // Dense text (e.g. CJK) costs more tokens per char; shrink the window until it fits
+            while (estimate > maxTokens && window > 1) {
+                window = Math.max(1, (int) (window * (double) maxTokens / estimate * 0.95));
+                end = start + window;
+                estimate = TokenEstimator.estimate(text, start, end);
+            }
+            if (end < len) {
+                end = breakPoint(text, start, end);
+            }
+            String chunk = text.substring(start, end).trim();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static int breakPoint(String text, int start, int end) {
+        // Only accept a break in the second half of the window to keep chunks reasonably full
+        int min = start + (end - start) / 2;
+        int idx = text.lastIndexOf("\n\n", end - 2);
+        if (idx >= min) {
+            return idx + 2;
+        }
+        for (String sep : new String[]{". ", "? ", "! ", "\n"}) {
+            idx = text.lastIndexOf(sep, end - sep.length());
+            if (idx >= min) {
+                return idx + sep.length();
+            }
+        }
+        idx = text.lastIndexOf(' ', end - 1);
+        return idx >= min ? idx + 1 : end;
+    }
+}
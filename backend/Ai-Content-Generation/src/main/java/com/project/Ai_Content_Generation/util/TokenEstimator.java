@@ -0,0 +1,46 @@
+package com.project.Ai_Content_Generation.util;
+
+/**
+ * Cheap local estimate of how many model tokens a text will use, so oversized
+ * input can be rejected or split before it is sent upstream. Single pass over
+ * the characters, no allocation.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        return text == null ? 0 : estimate(text, 0, text.length());
+    }
+
+    /** Estimate for {@code text[start, end)} without copying the range. */
+    public static int estimate(CharSequence text, int start, int end) {
+        int words = 0;
+        int punctuation = 0;
+        int nonAscii = 0;
+        boolean inWord = false;
+        int len = end - start;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (!inWord) {
+                    words++;
+                    inWord = true;
+                }
+                if (c > 0x7f) {
+                    nonAscii++;
+                }
+            } else {
+                inWord = false;
+                if (!Character.isWhitespace(c)) {
+                    punctuation++;
+                }
+            }
+        }
+        // English averages ~4 chars or ~0.75 words per token; non-Latin scripts tokenize far denser
+        int byChars = (len + 3) / 4;
+        int byWords = words + (words + 2) / 3 + punctuation;
+        return Math.max(byChars, byWords) + nonAscii / 2;
+    }
+}
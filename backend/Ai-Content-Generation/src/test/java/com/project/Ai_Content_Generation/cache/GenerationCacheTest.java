@@ -0,0 +1,49 @@
+package com.project.Ai_Content_Generation.cache;
+
+import com.project.Ai_Content_Generation.postprocess.ProcessedOutput;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GenerationCacheTest {
+
+	@Test
+	void generationsAreCachedByTypeAndInputWhenEnabled() {
+		GenerationCache cache = new GenerationCache(new InMemorySharedCacheTier(100), true, 60_000);
+		cache.put("blog", "input", ProcessedOutput.of("post"));
+
+		assertEquals("post", cache.get("BLOG", "input").getText());
+		assertNull(cache.get("blog", "other input"));
+		assertNull(cache.get("caption", "input"));
+	}
+
+	@Test
+	void disabledCacheStoresNothing() {
+		InMemorySharedCacheTier store = new InMemorySharedCacheTier(100);
+		GenerationCache cache = new GenerationCache(store, false, 60_000);
+		cache.put("blog", "input", ProcessedOutput.of("post"));
+
+		assertNull(cache.get("blog", "input"));
+		assertEquals(0, store.size());
+	}
+
+	@Test
+	void storeEvictsLeastRecentlyUsedAndPurgesExpired() throws InterruptedException {
+		InMemorySharedCacheTier store = new InMemorySharedCacheTier(2);
+		store.put("a", 1, 60_000);
+		store.put("b", 2, 60_000);
+		store.get("a");
+		store.put("c", 3, 60_000);
+
+		assertNull(store.get("b"));
+		assertEquals(1, store.get("a"));
+
+		store.evict("a");
+		store.put("short", 4, 20);
+		Thread.sleep(40);
+		store.purgeExpired();
+		assertEquals(1, store.size());
+		assertEquals(3, store.get("c"));
+	}
+}
@@ -0,0 +1,21 @@
+package com.project.Ai_Content_Generation.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CorsConfigTest {
+
+	@Test
+	void preflightAllowsTheHeadersTheFrontendSends() {
+		CorsConfiguration config = new CorsConfig().corsConfigurationSource()
+				.getCorsConfiguration(new MockHttpServletRequest("OPTIONS", "/api/generate"));
+		List<String> requested = List.of("authorization", "content-type", "cache-control", "x-request-timeout");
+
+		assertEquals(requested, config.checkHeaders(requested));
+	}
+}
@@ -0,0 +1,128 @@
+package com.project.Ai_Content_Generation.controller;
+
+import com.project.Ai_Content_Generation.config.RequestSizeLimitFilter;
+import com.project.Ai_Content_Generation.exception.GlobalExceptionHandler;
+import com.project.Ai_Content_Generation.postprocess.ProcessedOutput;
+import com.project.Ai_Content_Generation.service.GeminiService;
+import com.project.Ai_Content_Generation.service.InputBudget;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GenerateControllerTest {
+
+	private static final int MAX_BODY_BYTES = 16384;
+
+	// Hides the Content-Length a mock request always has, as with Transfer-Encoding: chunked
+	private static final Filter CHUNKED = (request, response, chain) -> chain.doFilter(
+			new HttpServletRequestWrapper((HttpServletRequest) request) {
+				@Override
+				public int getContentLength() {
+					return -1;
+				}
+
+				@Override
+				public long getContentLengthLong() {
+					return -1;
+				}
+			}, response);
+
+	private final GeminiService geminiService = mock(GeminiService.class);
+	private final InputBudget inputBudget = new InputBudget(1000, true, 5000);
+
+	@Test
+	void bodyWithContentLengthOverTheLimitIs413() throws Exception {
+		mockMvc().perform(post("/api/generate").contentType(MediaType.APPLICATION_JSON).content(body("blog", 2 * MAX_BODY_BYTES)))
+				.andExpect(status().isPayloadTooLarge())
+				.andExpect(jsonPath("$.message").value("Request body exceeds " + MAX_BODY_BYTES + " bytes"));
+		verifyNoInteractions(geminiService);
+	}
+
+	@Test
+	void chunkedBodyOverTheLimitIs413() throws Exception {
+		mockMvc(CHUNKED).perform(post("/api/generate").contentType(MediaType.APPLICATION_JSON).content(body("blog", 2 * MAX_BODY_BYTES)))
+				.andExpect(status().isPayloadTooLarge())
+				.andExpect(jsonPath("$.message").value("Request body exceeds " + MAX_BODY_BYTES + " bytes"));
+		verifyNoInteractions(geminiService);
+	}
+
+	@Test
+	void inputOverTheTypeBudgetIs413WhenItCannotBeChunked() throws Exception {
+		// ~2500 estimated tokens: within the body limit, over the 1000-token budget
+		mockMvc().perform(post("/api/generate").contentType(MediaType.APPLICATION_JSON).content(body("caption", 2500 * 4)))
+				.andExpect(status().isPayloadTooLarge())
+				.andExpect(jsonPath("$.message").value(startsWith("Content is too long for type 'caption'")));
+		verifyNoInteractions(geminiService);
+	}
+
+	@Test
+	void noCacheHeaderAsksForAFreshGeneration() throws Exception {
+		when(geminiService.generateProcessedContent(anyString(), eq("blog"), any(), anyBoolean()))
+				.thenReturn(ProcessedOutput.of("post"));
+
+		mockMvc().perform(post("/api/generate").contentType(MediaType.APPLICATION_JSON).content(body("blog", 100)))
+				.andExpect(status().isOk());
+		mockMvc().perform(post("/api/generate").contentType(MediaType.APPLICATION_JSON).content(body("blog", 100))
+						.header(HttpHeaders.CACHE_CONTROL, "No-Cache"))
+				.andExpect(status().isOk());
+
+		verify(geminiService).generateProcessedContent(anyString(), eq("blog"), any(), eq(false));
+		verify(geminiService).generateProcessedContent(anyString(), eq("blog"), any(), eq(true));
+	}
+
+	@Test
+	void nonNumericRequestTimeoutIs400() throws Exception {
+		mockMvc().perform(post("/api/generate").contentType(MediaType.APPLICATION_JSON).content(body("blog", 100))
+						.header("X-Request-Timeout", "soon"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Invalid value for 'X-Request-Timeout'"));
+		verifyNoInteractions(geminiService);
+	}
+
+	@Test
+	void budgetsAreTighterForShortFormTypesAndOnlySummariesChunk() {
+		InputBudget budget = new InputBudget(8000, true, 60000);
+
+		assertEquals(1000, budget.budgetFor("Caption"));
+		assertEquals(8000, budget.budgetFor("blog"));
+		assertTrue(budget.canChunk("summary", 20000));
+		assertFalse(budget.canChunk("summary", 70000));
+		assertFalse(budget.canChunk("blog", 20000));
+		assertFalse(new InputBudget(8000, false, 60000).canChunk("notes", 20000));
+	}
+
+	private MockMvc mockMvc(Filter... leadingFilters) {
+		Filter[] filters = new Filter[leadingFilters.length + 1];
+		System.arraycopy(leadingFilters, 0, filters, 0, leadingFilters.length);
+		filters[leadingFilters.length] = new RequestSizeLimitFilter(MAX_BODY_BYTES);
+		return MockMvcBuilders.standaloneSetup(new GenerateController(geminiService, inputBudget))
+				.setControllerAdvice(new GlobalExceptionHandler())
+				.addFilters(filters)
+				.build();
+	}
+
+	private static String body(String type, int contentChars) {
+		return "{\"type\":\"" + type + "\",\"content\":\"" + "word ".repeat(contentChars / 5) + "\"}";
+	}
+}
@@ -0,0 +1,80 @@
+package com.project.Ai_Content_Generation.jwt;
+
+import com.project.Ai_Content_Generation.security.MyUserDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtRequestFilterTest {
+
+	private static final String EMAIL = "user@example.com";
+
+	private final JwtUtil jwtUtil = spy(new JwtUtil());
+	private final TokenDenylist tokenDenylist = new TokenDenylist(100);
+	private final MyUserDetailsService userDetailsService = mock(MyUserDetailsService.class);
+	private final JwtRequestFilter filter = new JwtRequestFilter();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(jwtUtil, "secretKeyString", "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff");
+		ReflectionTestUtils.setField(jwtUtil, "expirationTime", 60_000L);
+		ReflectionTestUtils.setField(jwtUtil, "refreshExpirationTime", 600_000L);
+		ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(filter, "tokenDenylist", tokenDenylist);
+		ReflectionTestUtils.setField(filter, "userDetailsService", userDetailsService);
+		when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new User(EMAIL, "password", List.of()));
+	}
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void accessTokenAuthenticatesWithASingleParse() throws Exception {
+		filter.doFilter(request(jwtUtil.generateToken(EMAIL)), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+		verify(jwtUtil, times(1)).extractAllClaims(anyString());
+	}
+
+	@Test
+	void refreshTokenIsNotAcceptedAsAccessToken() throws Exception {
+		filter.doFilter(request(jwtUtil.generateRefreshToken(EMAIL)), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	@Test
+	void revokedAccessTokenIsRejected() throws Exception {
+		String token = jwtUtil.generateToken(EMAIL);
+		tokenDenylist.revoke(jwtUtil.extractId(token), System.currentTimeMillis() + 60_000);
+
+		filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+		assertNull(SecurityContextHolder.getContext().getAuthentication());
+	}
+
+	private static MockHttpServletRequest request(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/generate");
+		request.addHeader("Authorization", "Bearer " + token);
+		return request;
+	}
+}
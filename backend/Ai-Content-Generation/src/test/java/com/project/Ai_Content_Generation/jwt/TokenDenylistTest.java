@@ -0,0 +1,76 @@
+package com.project.Ai_Content_Generation.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenDenylistTest {
+
+	@Test
+	void revokedTokenIsDeniedUntilItExpires() {
+		TokenDenylist denylist = new TokenDenylist(100);
+		denylist.revoke("jti-1", System.currentTimeMillis() + 60_000);
+
+		assertTrue(denylist.isRevoked("jti-1"));
+		assertFalse(denylist.isRevoked("jti-2"));
+		assertFalse(denylist.isRevoked(null));
+	}
+
+	@Test
+	void onlyOneConcurrentRevokeOfAJtiSucceeds() throws Exception {
+		TokenDenylist denylist = new TokenDenylist(100);
+		long expiresAt = System.currentTimeMillis() + 60_000;
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return denylist.revoke("jti-1", expiresAt);
+			}));
+		}
+		start.countDown();
+
+		int winners = 0;
+		for (Future<Boolean> result : results) {
+			winners += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+		}
+		executor.shutdown();
+
+		assertEquals(1, winners);
+		assertTrue(denylist.isRevoked("jti-1"));
+	}
+
+	@Test
+	void alreadyExpiredTokensAreNotStored() {
+		TokenDenylist denylist = new TokenDenylist(100);
+		denylist.revoke("jti-1", System.currentTimeMillis() - 1);
+
+		assertFalse(denylist.isRevoked("jti-1"));
+		assertEquals(0, denylist.size());
+	}
+
+	@Test
+	void purgeDropsExpiredEntriesAndKeepsLiveOnes() throws InterruptedException {
+		TokenDenylist denylist = new TokenDenylist(100);
+		denylist.revoke("short", System.currentTimeMillis() + 20);
+		denylist.revoke("long", System.currentTimeMillis() + 60_000);
+
+		Thread.sleep(40);
+		denylist.purgeExpired();
+
+		assertEquals(1, denylist.size());
+		assertFalse(denylist.isRevoked("short"));
+		assertTrue(denylist.isRevoked("long"));
+	}
+}
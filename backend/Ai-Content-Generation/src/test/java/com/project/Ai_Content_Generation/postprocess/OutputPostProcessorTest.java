@@ -0,0 +1,100 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import com.project.Ai_Content_Generation.dto.FaqEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OutputPostProcessorTest {
+
+	private final OutputPostProcessor processor = new OutputPostProcessor();
+
+	@Test
+	void headlinesAreCleanedDeduplicatedAndCappedAtFive() {
+		String raw = "Here are 5 headlines:\r\n\r\n"
+				+ "1. **Dragons Return**\n"
+				+ "2. \"Dragons Return\"\n"
+				+ "3. The Sky Burns\n"
+				+ "- Fire Over London\n"
+				+ "* Scales and Tales\n"
+				+ "6. Wings of Night\n"
+				+ "7. One Too Many\n";
+
+		ProcessedOutput output = processor.process("Headline", raw);
+
+		assertEquals(List.of("Dragons Return", "The Sky Burns", "Fire Over London", "Scales and Tales", "Wings of Night"),
+				output.getData());
+		assertTrue(output.getText().startsWith("1. Dragons Return\n2. The Sky Burns"));
+	}
+
+	@Test
+	void proseAroundANumberedListIsNotCountedAsHeadlines() {
+		String raw = "Here are five headlines for your post.\n\n"
+				+ "1. Dragons Return\n"
+				+ "2. The Sky Burns\n"
+				+ "3. Fire Over London\n"
+				+ "4. Scales and Tales\n"
+				+ "5. Wings of Night\n\n"
+				+ "Each of these works well for social sharing.\n";
+
+		ProcessedOutput output = processor.process("headline", raw);
+
+		assertEquals(List.of("Dragons Return", "The Sky Burns", "Fire Over London", "Scales and Tales", "Wings of Night"),
+				output.getData());
+	}
+
+	@Test
+	void leadInIsSkippedWhenHeadlinesAreUnnumbered() {
+		String raw = "Sure, here you go\nDragons Return\nThe Sky Burns\n";
+
+		ProcessedOutput output = processor.process("headline", raw);
+
+		assertEquals(List.of("Dragons Return", "The Sky Burns"), output.getData());
+	}
+
+	@Test
+	void faqIsParsedIntoQuestionAnswerPairs() {
+		String raw = "## Frequently Asked Questions\n\n"
+				+ "**Q: What is it?**\n"
+				+ "A: A tool.\n\n"
+				+ "How much does it cost?\n"
+				+ "It is free.\n"
+				+ "Forever.\n";
+
+		ProcessedOutput output = processor.process("faq", raw);
+
+		assertEquals(List.of(new FaqEntry("What is it?", "A tool."), new FaqEntry("How much does it cost?", "It is free. Forever.")),
+				output.getData());
+	}
+
+	@Test
+	void metaDescriptionsAreTruncatedOnWordBoundaries() {
+		String raw = "1. " + "word ".repeat(60);
+
+		ProcessedOutput output = processor.process("meta", raw);
+
+		@SuppressWarnings("unchecked")
+		String description = ((List<String>) output.getData()).get(0);
+		assertTrue(description.length() <= OutputPostProcessor.META_MAX_LENGTH);
+		assertTrue(description.endsWith("word…"));
+	}
+
+	@Test
+	void otherTypesAreOnlyNormalized() {
+		ProcessedOutput output = processor.process("blog", "Title  \r\n\r\n\r\n\r\nBody\t\n\n");
+
+		assertEquals("Title\n\nBody", output.getText());
+		assertNull(output.getData());
+	}
+
+	@Test
+	void markdownHardLineBreaksSurviveNormalization() {
+		ProcessedOutput output = processor.process("blog", "Line one   \nLine two \nLine three  \n\nEnd  ");
+
+		assertEquals("Line one  \nLine two\nLine three\n\nEnd", output.getText());
+	}
+}
@@ -0,0 +1,104 @@
+package com.project.Ai_Content_Generation.postprocess;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH micro-benchmarks for each post-processing stage on output shaped like a
+ * typical model response. Stages mutate or replace their input, so every
+ * invocation starts from a fresh {@link ProcessedOutput}.
+ * Run with {@code scripts/postprocess-benchmark.sh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutputStageBenchmark {
+
+	private final MarkdownNormalizer normalizer = new MarkdownNormalizer();
+	private final HeadlineStage headlines = new HeadlineStage(OutputPostProcessor.HEADLINE_COUNT);
+	private final FaqStage faq = new FaqStage();
+	private final LengthLimitStage lengthLimit =
+			new LengthLimitStage(OutputPostProcessor.META_MAX_LENGTH, OutputPostProcessor.META_MAX_ITEMS);
+
+	private String article;
+	private String headlineList;
+	private String faqText;
+	private String metaList;
+
+	@Setup
+	public void setUp() {
+		// ~8 KB blog post with CRLF endings, trailing whitespace, hard breaks and blank runs
+		StringBuilder sb = new StringBuilder();
+		for (int section = 1; section <= 8; section++) {
+			sb.append("## Section ").append(section).append("  \r\n\r\n\r\n");
+			for (int paragraph = 0; paragraph < 3; paragraph++) {
+				sb.append("Generated prose keeps going with **bold** text and a [link](https://example.com).\t\r\n");
+				sb.append("A second line that ends in a hard break  \r\n");
+				sb.append("and a third line to close the paragraph.   \r\n\r\n");
+			}
+		}
+		article = sb.toString();
+
+		headlineList = """
+				Here are some headlines for your article:
+
+				1. **Ten Ways to Speed Up Your Morning Routine**
+				2. "Why Everyone Is Talking About Slow Travel"
+				3. The Hidden Cost of Free Apps
+				4. Ten ways to speed up your morning routine
+				5. - How Small Teams Ship Faster
+				6. What Nobody Tells You About Remote Work
+				7. The Last Guide to Budgeting You Will Need
+
+				Let me know if you want more options!""";
+
+		StringBuilder faqBuilder = new StringBuilder();
+		for (int i = 1; i <= 10; i++) {
+			faqBuilder.append("**Q").append(i).append(": How does feature ").append(i).append(" work?**\n");
+			faqBuilder.append("A: It works by doing the thing the question asks about, in a couple of sentences.\n");
+			faqBuilder.append("Most users never need to change its settings.\n\n");
+		}
+		faqText = faqBuilder.toString();
+
+		StringBuilder metaBuilder = new StringBuilder();
+		for (int i = 1; i <= 5; i++) {
+			metaBuilder.append(i).append(". Discover option ").append(i)
+					.append(" for busy readers who want practical, tested advice on saving time every single day ")
+					.append("without giving up the things that matter most to them and their families.\n");
+		}
+		metaList = metaBuilder.toString();
+	}
+
+	@Benchmark
+	public ProcessedOutput markdownNormalizer() {
+		return normalizer.apply(ProcessedOutput.of(article));
+	}
+
+	@Benchmark
+	public ProcessedOutput headlineStage() {
+		return headlines.apply(ProcessedOutput.of(headlineList));
+	}
+
+	@Benchmark
+	public ProcessedOutput faqStage() {
+		return faq.apply(ProcessedOutput.of(faqText));
+	}
+
+	@Benchmark
+	public ProcessedOutput lengthLimitStage() {
+		return lengthLimit.apply(ProcessedOutput.of(metaList));
+	}
+}
@@ -0,0 +1,172 @@
+package com.project.Ai_Content_Generation.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerationSchedulerTest {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	@Test
+	void fastRequestsAreServedAheadOfQueuedSlowOnes() throws Exception {
+		GenerationScheduler scheduler = new GenerationScheduler(100, 10_000, 1, 1, 1, 2.0);
+		CountDownLatch unblock = new CountDownLatch(1);
+		Future<?> blocker = occupySlot(scheduler, unblock);
+
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		List<Future<?>> waiters = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			waiters.add(executor.submit(() -> scheduler.run("article", null, () -> order.add("article"))));
+		}
+		awaitQueued(scheduler, GenerationTier.SLOW, 3);
+		for (int i = 0; i < 3; i++) {
+			waiters.add(executor.submit(() -> scheduler.run("caption", null, () -> order.add("caption"))));
+		}
+		awaitQueued(scheduler, GenerationTier.FAST, 3);
+
+		unblock.countDown();
+		blocker.get(5, TimeUnit.SECONDS);
+		for (Future<?> waiter : waiters) {
+			waiter.get(5, TimeUnit.SECONDS);
+		}
+
+		assertEquals(List.of("caption", "caption", "caption", "article", "article", "article"), order);
+	}
+
+	@Test
+	void requestsAreRejectedWhenTheirQueueIsFull() throws Exception {
+		GenerationScheduler scheduler = new GenerationScheduler(1, 10_000, 1, 1, 1, 2.0);
+		CountDownLatch unblock = new CountDownLatch(1);
+		Future<?> blocker = occupySlot(scheduler, unblock);
+		Future<?> queued = executor.submit(() -> scheduler.run("caption", null, () -> "ok"));
+		awaitQueued(scheduler, GenerationTier.FAST, 1);
+
+		assertThrows(ResponseStatusException.class, () -> scheduler.run("caption", null, () -> "rejected"));
+
+		unblock.countDown();
+		blocker.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void waitersPastTheirDeadlineAreDropped() throws Exception {
+		GenerationScheduler scheduler = new GenerationScheduler(100, 50, 1, 1, 1, 2.0);
+		CountDownLatch unblock = new CountDownLatch(1);
+		Future<?> blocker = occupySlot(scheduler, unblock);
+
+		assertThrows(ResponseStatusException.class, () -> scheduler.run("caption", null, () -> "too late"));
+		assertEquals(0, scheduler.getQueued(GenerationTier.FAST));
+
+		unblock.countDown();
+		blocker.get(5, TimeUnit.SECONDS);
+		assertEquals(0, scheduler.getInFlight());
+	}
+
+	@Test
+	void clientDeadlineShorterThanTheQueueTimeoutWins() throws Exception {
+		GenerationScheduler scheduler = new GenerationScheduler(100, 10_000, 1, 1, 1, 2.0);
+		CountDownLatch unblock = new CountDownLatch(1);
+		Future<?> blocker = occupySlot(scheduler, unblock);
+
+		long start = System.nanoTime();
+		assertThrows(ResponseStatusException.class,
+				() -> scheduler.run("caption", Deadline.afterMillis(50), () -> "too late"));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5), "waited for the queue timeout");
+		assertEquals(0, scheduler.getQueued(GenerationTier.FAST));
+
+		unblock.countDown();
+		blocker.get(5, TimeUnit.SECONDS);
+		assertEquals(0, scheduler.getInFlight());
+	}
+
+	@Test
+	void limitGrowsWhileLatencyIsSteadyAndShrinksWhenItSpikes() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 2, 16, 2.0);
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(GenerationTier.STANDARD, 1_000_000);
+		}
+		int grown = limit.getLimit();
+		assertTrue(grown > 4, "limit did not grow: " + grown);
+
+		for (int i = 0; i < 5; i++) {
+			limit.onSample(GenerationTier.STANDARD, 10_000_000);
+		}
+		assertTrue(limit.getLimit() < grown, "limit did not shrink");
+
+		// A slow tier at its own normal latency is not treated as congestion
+		int before = limit.getLimit();
+		limit.onSample(GenerationTier.SLOW, 50_000_000);
+		assertTrue(limit.getLimit() >= before);
+	}
+
+	@Test
+	void limitDoesNotCollapseUnderOrdinaryLatencyVariance() {
+		// LLM latency is roughly lognormal; sigma 0.5 puts about 1 call in 12 over twice the median
+		Random random = new Random(42);
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 2, 64, 2.0);
+		for (int i = 0; i < 5_000; i++) {
+			long latency = (long) (2_000_000_000L * Math.exp(0.5 * random.nextGaussian()));
+			limit.onSample(GenerationTier.STANDARD, latency);
+		}
+
+		assertTrue(limit.getLimit() >= 32, "limit collapsed to " + limit.getLimit());
+	}
+
+	@Test
+	void failedCallsShrinkTheLimitInsteadOfCountingAsLatency() throws Exception {
+		GenerationScheduler scheduler = new GenerationScheduler(100, 10_000, 10, 2, 16, 2.0);
+
+		assertThrows(IllegalStateException.class, () -> scheduler.run("caption", null, () -> {
+			throw new IllegalStateException("upstream 503");
+		}));
+
+		assertEquals(9, scheduler.getLimit());
+		assertEquals(0, scheduler.getInFlight());
+	}
+
+	@Test
+	void consecutiveFailuresShrinkTheLimitToItsMinimum() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(32, 2, 64, 2.0);
+		for (int i = 0; i < 300; i++) {
+			limit.onDrop();
+		}
+
+		assertEquals(2, limit.getLimit());
+	}
+
+	private Future<?> occupySlot(GenerationScheduler scheduler, CountDownLatch unblock) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		Future<?> blocker = executor.submit(() -> scheduler.run("blog", null, () -> {
+			started.countDown();
+			try {
+				return unblock.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		return blocker;
+	}
+
+	private static void awaitQueued(GenerationScheduler scheduler, GenerationTier tier, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (scheduler.getQueued(tier) < count && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+		assertEquals(count, scheduler.getQueued(tier));
+	}
+}
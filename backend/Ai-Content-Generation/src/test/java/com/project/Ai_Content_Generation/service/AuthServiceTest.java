@@ -0,0 +1,89 @@
+package com.project.Ai_Content_Generation.service;
+
+import com.project.Ai_Content_Generation.dto.LoginResponse;
+import com.project.Ai_Content_Generation.dto.RefreshRequest;
+import com.project.Ai_Content_Generation.entity.User;
+import com.project.Ai_Content_Generation.jwt.JwtUtil;
+import com.project.Ai_Content_Generation.jwt.TokenDenylist;
+import com.project.Ai_Content_Generation.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+	private static final String EMAIL = "user@example.com";
+
+	private final JwtUtil jwtUtil = new JwtUtil();
+	private final TokenDenylist tokenDenylist = new TokenDenylist(100);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final AuthService authService = new AuthService();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(jwtUtil, "secretKeyString", "00112233445566778899aabbccddeeff00112233445566778899aabbccddeeff");
+		ReflectionTestUtils.setField(jwtUtil, "expirationTime", 60_000L);
+		ReflectionTestUtils.setField(jwtUtil, "refreshExpirationTime", 600_000L);
+		ReflectionTestUtils.setField(authService, "jwtUtil", jwtUtil);
+		ReflectionTestUtils.setField(authService, "tokenDenylist", tokenDenylist);
+		ReflectionTestUtils.setField(authService, "userRepository", userRepository);
+
+		User user = new User();
+		user.setEmail(EMAIL);
+		when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+	}
+
+	@Test
+	void refreshTokenCanBeUsedOnlyOnce() {
+		RefreshRequest request = refreshRequest(jwtUtil.generateRefreshToken(EMAIL));
+
+		LoginResponse rotated = authService.refresh(request);
+		assertNotEquals(request.getRefreshToken(), rotated.getRefreshToken());
+		assertEquals(EMAIL, jwtUtil.extractAllClaims(rotated.getToken()).getSubject());
+
+		assertUnauthorized(() -> authService.refresh(request));
+		// The rotated token is still good
+		authService.refresh(refreshRequest(rotated.getRefreshToken()));
+	}
+
+	@Test
+	void accessTokenIsNotAcceptedAsRefreshToken() {
+		assertUnauthorized(() -> authService.refresh(refreshRequest(jwtUtil.generateToken(EMAIL))));
+		assertUnauthorized(() -> authService.refresh(refreshRequest("not-a-jwt")));
+	}
+
+	@Test
+	void logoutRevokesBothTokens() {
+		String accessToken = jwtUtil.generateToken(EMAIL);
+		String refreshToken = jwtUtil.generateRefreshToken(EMAIL);
+
+		authService.logout(accessToken, refreshRequest(refreshToken));
+
+		assertTrue(tokenDenylist.isRevoked(jwtUtil.extractId(accessToken)));
+		assertUnauthorized(() -> authService.refresh(refreshRequest(refreshToken)));
+		// Malformed or missing tokens are ignored rather than failing the logout
+		authService.logout("not-a-jwt", null);
+	}
+
+	private static RefreshRequest refreshRequest(String token) {
+		RefreshRequest request = new RefreshRequest();
+		request.setRefreshToken(token);
+		return request;
+	}
+
+	private static void assertUnauthorized(Runnable call) {
+		ResponseStatusException e = assertThrows(ResponseStatusException.class, call::run);
+		assertEquals(HttpStatus.UNAUTHORIZED, e.getStatusCode());
+	}
+}
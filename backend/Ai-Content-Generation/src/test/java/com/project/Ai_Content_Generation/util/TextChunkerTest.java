@@ -0,0 +1,44 @@
+package com.project.Ai_Content_Generation.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextChunkerTest {
+
+	@Test
+	void shortTextIsASingleChunk() {
+		assertEquals(List.of("Just one paragraph."), TextChunker.split("Just one paragraph.", 100));
+	}
+
+	@Test
+	void longTextIsSplitOnSentencesWithinBudget() {
+		String text = "This sentence is about dragons and castles. ".repeat(400);
+
+		List<String> chunks = TextChunker.split(text, 500);
+
+		assertTrue(chunks.size() > 1);
+		for (String chunk : chunks) {
+			assertTrue(TokenEstimator.estimate(chunk) <= 500, "chunk over budget");
+			assertTrue(chunk.endsWith("."), "chunk not split on a sentence");
+		}
+		assertEquals(text.trim().length(), String.join(" ", chunks).length());
+	}
+
+	@Test
+	void denseTextIsSplitByEstimatedTokensNotCharacters() {
+		String text = "人工知能は文章を生成します。".repeat(1000);
+
+		List<String> chunks = TextChunker.split(text, 1000);
+
+		assertTrue(chunks.size() > 1);
+		for (String chunk : chunks) {
+			int estimate = TokenEstimator.estimate(chunk);
+			assertTrue(estimate <= 1000, "chunk estimated at " + estimate + " tokens");
+		}
+		assertEquals(text, String.join("", chunks));
+	}
+}
@@ -0,0 +1,33 @@
+package com.project.Ai_Content_Generation.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenEstimatorTest {
+
+	@Test
+	void emptyAndNullTextCostNothing() {
+		assertEquals(0, TokenEstimator.estimate(""));
+		assertEquals(0, TokenEstimator.estimate(null));
+	}
+
+	@Test
+	void estimateTracksWordsAndCharacters() {
+		int estimate = TokenEstimator.estimate("The quick brown fox jumps over the lazy dog.");
+		assertTrue(estimate >= 10 && estimate <= 15, "estimate was " + estimate);
+	}
+
+	@Test
+	void nonLatinTextIsEstimatedDenser() {
+		String cjk = "人工知能は文章を生成します";
+		assertTrue(TokenEstimator.estimate(cjk) > cjk.length() / 4);
+	}
+
+	@Test
+	void rangeEstimateMatchesEstimateOfSubstring() {
+		String text = "Alpha beta, gamma. Delta epsilon!";
+		assertEquals(TokenEstimator.estimate(text.substring(6, 25)), TokenEstimator.estimate(text, 6, 25));
+	}
+}